@@ -1 +1,9 @@
-version = "1.0.0-SNAPSHOT"
\ No newline at end of file
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+version = "1.0.0-SNAPSHOT"
+
+jmh {
+    profilers.add("gc")
+}
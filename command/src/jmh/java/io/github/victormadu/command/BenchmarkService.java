@@ -0,0 +1,525 @@
+package io.github.victormadu.command;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.victormadu.command.annotation.Command;
+import io.github.victormadu.command.annotation.Param;
+
+/**
+ * A service with many commands, only a few of which are dispatched by the
+ * benchmarks, mirroring a CLI that exposes hundreds of commands.
+ */
+public class BenchmarkService {
+    @Command("alpha1")
+    public List<String> alpha1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha2")
+    public List<String> alpha2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha3")
+    public List<String> alpha3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha4")
+    public List<String> alpha4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha5")
+    public List<String> alpha5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha6")
+    public List<String> alpha6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha7")
+    public List<String> alpha7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("alpha8")
+    public List<String> alpha8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo1")
+    public List<String> bravo1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo2")
+    public List<String> bravo2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo3")
+    public List<String> bravo3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo4")
+    public List<String> bravo4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo5")
+    public List<String> bravo5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo6")
+    public List<String> bravo6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo7")
+    public List<String> bravo7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("bravo8")
+    public List<String> bravo8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie1")
+    public List<String> charlie1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie2")
+    public List<String> charlie2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie3")
+    public List<String> charlie3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie4")
+    public List<String> charlie4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie5")
+    public List<String> charlie5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie6")
+    public List<String> charlie6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie7")
+    public List<String> charlie7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("charlie8")
+    public List<String> charlie8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta1")
+    public List<String> delta1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta2")
+    public List<String> delta2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta3")
+    public List<String> delta3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta4")
+    public List<String> delta4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta5")
+    public List<String> delta5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta6")
+    public List<String> delta6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta7")
+    public List<String> delta7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("delta8")
+    public List<String> delta8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo1")
+    public List<String> echo1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo2")
+    public List<String> echo2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo3")
+    public List<String> echo3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo4")
+    public List<String> echo4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo5")
+    public List<String> echo5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo6")
+    public List<String> echo6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo7")
+    public List<String> echo7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("echo8")
+    public List<String> echo8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot1")
+    public List<String> foxtrot1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot2")
+    public List<String> foxtrot2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot3")
+    public List<String> foxtrot3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot4")
+    public List<String> foxtrot4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot5")
+    public List<String> foxtrot5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot6")
+    public List<String> foxtrot6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot7")
+    public List<String> foxtrot7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("foxtrot8")
+    public List<String> foxtrot8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf1")
+    public List<String> golf1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf2")
+    public List<String> golf2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf3")
+    public List<String> golf3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf4")
+    public List<String> golf4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf5")
+    public List<String> golf5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf6")
+    public List<String> golf6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf7")
+    public List<String> golf7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("golf8")
+    public List<String> golf8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel1")
+    public List<String> hotel1(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel2")
+    public List<String> hotel2(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel3")
+    public List<String> hotel3(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel4")
+    public List<String> hotel4(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel5")
+    public List<String> hotel5(@Param("id") String id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel6")
+    public List<String> hotel6(@Param("id") Integer id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel7")
+    public List<String> hotel7(@Param("id") Long id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+
+    @Command("hotel8")
+    public List<String> hotel8(@Param("id") Boolean id, @Param("name") String name) {
+        List<String> result = new ArrayList<>();
+        result.add(String.valueOf(id));
+        result.add(name);
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.victormadu.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.victormadu.command.annotation.Command;
+import io.github.victormadu.command.annotation.Param;
+
+/**
+ * Compares steady-state dispatch through {@link CommandRegistry#getRunner(String)}
+ * with a reused {@link CommandContext}. Run with the {@code gc} profiler to
+ * compare the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private static final String COMMAND = "sum a=40 b=2 label=\"dispatch benchmark\"";
+
+    /** A command that allocates nothing itself, so only dispatch is measured. */
+    public static class SumService {
+        @Command("sum")
+        public int sum(@Param("a") long a, @Param("b") int b, @Param("label") String label) {
+            return (int) a + b;
+        }
+    }
+
+    private CommandRegistry registry;
+    private CommandContext context;
+
+    @Setup
+    public void setUp() {
+        registry = new CommandRegistry(new SumService(), new BenchmarkService());
+        context = registry.newContext();
+    }
+
+    @Benchmark
+    public Object runner() throws Throwable {
+        return registry.getRunner(COMMAND).run();
+    }
+
+    @Benchmark
+    public Object context() throws Throwable {
+        return context.reset(COMMAND).run();
+    }
+}
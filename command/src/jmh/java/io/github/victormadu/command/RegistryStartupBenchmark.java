@@ -0,0 +1,46 @@
+package io.github.victormadu.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of registering a service and dispatching its first command.
+ * {@code registerAndDispatchAll} materializes every handler, which is what
+ * registration used to cost before handlers were built lazily.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryStartupBenchmark {
+    private final BenchmarkService service = new BenchmarkService();
+
+    @Benchmark
+    public Object registerAndDispatchOne() throws Throwable {
+        CommandRegistry registry = new CommandRegistry(service);
+        return registry.getRunner("alpha1 id=1 name=one").run();
+    }
+
+    @Benchmark
+    public Object registerAndDispatchAll() throws Throwable {
+        CommandRegistry registry = new CommandRegistry(service);
+        Object result = null;
+        for (String prefix : new String[] {"alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel"}) {
+            for (int i = 1; i <= 8; i++) {
+                result = registry.handler(prefix + i);
+            }
+        }
+        return result;
+    }
+}
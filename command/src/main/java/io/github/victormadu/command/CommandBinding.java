@@ -0,0 +1,39 @@
+package io.github.victormadu.command;
+
+import java.lang.reflect.Method;
+
+/**
+ * A command registered by name whose {@link CommandHandler} is only built the
+ * first time the command is dispatched.
+ */
+class CommandBinding {
+    private final Object service;
+    private final Method method;
+    private final String name;
+
+    private volatile CommandHandler handler;
+
+    CommandBinding(Object service, Method method) {
+        this.service = service;
+        this.method = method;
+        this.name = CommandHandler.nameOf(method);
+    }
+
+    String name() {
+        return name;
+    }
+
+    CommandHandler handler() {
+        CommandHandler h = handler;
+        if (h == null) {
+            synchronized (this) {
+                h = handler;
+                if (h == null) {
+                    h = new CommandHandler(service, method);
+                    handler = h;
+                }
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.victormadu.command;
+
+import java.util.Optional;
+
+/**
+ * A reusable alternative to {@link CommandRunner} for high-rate dispatch. A
+ * context parses commands in place and keeps its resolved commands, argument
+ * arrays and parse buffers between calls, so steady-state dispatch only
+ * allocates the parameter values themselves.
+ *
+ * <p>A context is not thread-safe; keep one per thread, created with
+ * {@link CommandRegistry#newContext()}.
+ */
+public final class CommandContext {
+    private final CommandParser parser;
+
+    private CommandParser.Dispatch current;
+
+    CommandContext(CommandRegistry registry) {
+        this.parser = new CommandParser(registry, false);
+    }
+
+    /**
+     * Parses the command into this context, replacing the previous one. The
+     * syntax is the same as {@link CommandRegistry#getRunner(String)}.
+     */
+    public CommandContext reset(String command) {
+        reset();
+
+        CommandParser.Dispatch dispatch = parser.parse(command, 0, command.length());
+        if (dispatch == null) {
+            throw new IllegalArgumentException("Unknown command: ");
+        }
+
+        current = dispatch;
+        return this;
+    }
+
+    /**
+     * Clears the parsed command and releases the argument values it holds, while
+     * keeping the buffers for the next command.
+     */
+    public void reset() {
+        if (current != null) {
+            current.clear();
+            current = null;
+        }
+    }
+
+    public Object run() throws Throwable {
+        return parsed().run();
+    }
+
+    public Optional<Class<?>> getGenericClassOfReturnType() {
+        return parsed().handler().getGenericTypeArgumentOfReturnType();
+    }
+
+    private CommandParser.Dispatch parsed() {
+        if (current == null) {
+            throw new IllegalStateException("No command has been parsed");
+        }
+        return current;
+    }
+}
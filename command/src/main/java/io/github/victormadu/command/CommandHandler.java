@@ -17,28 +17,17 @@ import io.github.victormadu.command.annotation.Param;
 
 class CommandHandler {
     private final MethodHandle methodHandle;
+    private final MethodHandle spreader;
     private final Method method;
     private final String name;
     private final Map<String, Class<?>> parameterMap = new LinkedHashMap<>();
+    private final String[] parameterNames;
+    private final Class<?>[] parameterTypes;
     
     private Class<?> genericReturnType;
 
     public CommandHandler(Object service, Method method) {
-        Command commandAnnotation = method.getAnnotation(Command.class);
-        if (commandAnnotation == null) {
-            throw new IllegalArgumentException("Method is not annotated with @Command");
-        }
-        
-        String commandName = commandAnnotation.name();
-        if (commandName == null || commandName.isEmpty()) {
-            commandName = commandAnnotation.value();
-        }
-
-        if (commandName == null || commandName.isEmpty()) {
-            throw new IllegalArgumentException("Command name is not specified");
-        }
-
-        this.name = commandName;
+        this.name = nameOf(method);
         // this.hasReturnValue = method.getReturnType() != void.class;
        
         for (java.lang.reflect.Parameter parameter : method.getParameters()) {
@@ -58,6 +47,8 @@ class CommandHandler {
 
             parameterMap.put(paramName, parameter.getType());
         }
+        this.parameterNames = parameterMap.keySet().toArray(new String[0]);
+        this.parameterTypes = parameterMap.values().toArray(new Class<?>[0]);
         
         try {
             this.methodHandle = MethodHandles.lookup()
@@ -69,25 +60,51 @@ class CommandHandler {
         } catch (NoSuchMethodException | IllegalAccessException e) {
             throw new RuntimeException("Failed to create command handler", e);
         } 
+        this.spreader = methodHandle
+                .asSpreader(Object[].class, parameterNames.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
         this.method = method;
     }
 
-    public Object execute(Map<String, String> params) throws Throwable {
-        Object[] args = new Object[parameterMap.size()];
-        int i = 0;
+    /**
+     * Reads the command name from the {@code @Command} annotation of the method
+     * without inspecting its parameters or resolving a method handle.
+     */
+    static String nameOf(Method method) {
+        Command commandAnnotation = method.getAnnotation(Command.class);
+        if (commandAnnotation == null) {
+            throw new IllegalArgumentException("Method is not annotated with @Command");
+        }
+        
+        String commandName = commandAnnotation.name();
+        if (commandName == null || commandName.isEmpty()) {
+            commandName = commandAnnotation.value();
+        }
 
-        for (Map.Entry<String, Class<?>> entry : parameterMap.entrySet()) {
-            String paramName = entry.getKey();
-            String paramValue = params.get(paramName);
+        if (commandName == null || commandName.isEmpty()) {
+            throw new IllegalArgumentException("Command name is not specified");
+        }
+        return commandName;
+    }
 
-            if (paramValue == null) {
-                throw new IllegalArgumentException("Missing required parameter: " + paramName);
-            }
+    /**
+     * Names of the command parameters, in the order {@link #invoke(Object[])}
+     * expects their values.
+     */
+    String[] parameterNames() {
+        return parameterNames;
+    }
 
-            args[i++] = convertValue(paramValue, entry.getValue());
-        }
+    Object convert(int parameterIndex, String value) {
+        return convertValue(value, parameterTypes[parameterIndex]);
+    }
 
-        return methodHandle.invokeWithArguments(args);
+    /**
+     * Invokes the command with arguments already converted to the parameter
+     * types. The array is not retained and can be reused by the caller.
+     */
+    Object invoke(Object[] args) throws Throwable {
+        return (Object) spreader.invokeExact(args);
     }
 
     public Optional<Class<?>> getGenericTypeArgumentOfReturnType() {
@@ -0,0 +1,266 @@
+package io.github.victormadu.command;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses commands of the form {@code name param=value param="quoted \" value"}
+ * into the argument array of the resolved command. This is the one
+ * implementation of the command syntax, shared by
+ * {@link CommandRegistry#getRunner(String)}, {@link CommandContext} and script
+ * replay.
+ *
+ * <p>The source is only read through {@link CharSequence#charAt(int)}. When
+ * {@code utf8Bytes} is set, each char of the source is one byte of UTF-8 text.
+ * Every byte of a multi-byte UTF-8 sequence is non-ASCII, so it never matches
+ * whitespace or the syntax characters, and names and values are decoded as
+ * UTF-8 when they are materialized.
+ *
+ * <p>Resolved commands and their argument arrays are cached by name, so a
+ * parser is not thread-safe. The cache is dropped whenever commands have been
+ * registered since it was filled, so later registrations, including ones that
+ * take precedence in a composed registry, are picked up.
+ */
+class CommandParser {
+    private final CommandRegistry registry;
+    private final boolean utf8Bytes;
+    private final Map<Name, Dispatch> dispatches = new HashMap<>();
+    private final Name probe = new Name();
+    private final StringBuilder quoted = new StringBuilder();
+
+    private byte[] bytes;
+    private long registryModifications;
+
+    CommandParser(CommandRegistry registry, boolean utf8Bytes) {
+        this.registry = registry;
+        this.utf8Bytes = utf8Bytes;
+    }
+
+    /**
+     * Parses the command in {@code source[start, end)} and returns its command
+     * with the converted arguments, or {@code null} if the command is blank. The
+     * arguments are cleared again if parsing fails.
+     */
+    Dispatch parse(CharSequence source, int start, int end) {
+        while (start < end && Character.isWhitespace(source.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(source.charAt(end - 1))) end--;
+        if (start == end) return null;
+
+        int nameEnd = start;
+        while (nameEnd < end && !Character.isWhitespace(source.charAt(nameEnd))) nameEnd++;
+
+        Dispatch dispatch = dispatch(source, start, nameEnd);
+        Object[] args = dispatch.args;
+        Arrays.fill(args, null);
+
+        try {
+            int pos = nameEnd;
+            while (pos < end) {
+                // Skip leading spaces
+                while (pos < end && Character.isWhitespace(source.charAt(pos))) pos++;
+                if (pos >= end) break;
+
+                // Find parameter name
+                int equalsPos = indexOf(source, '=', pos, end);
+                if (equalsPos == -1) throw new IllegalArgumentException("Invalid parameter format: missing '='");
+
+                int paramStart = pos;
+                int paramEnd = equalsPos;
+                while (paramStart < paramEnd && Character.isWhitespace(source.charAt(paramStart))) paramStart++;
+                while (paramEnd > paramStart && Character.isWhitespace(source.charAt(paramEnd - 1))) paramEnd--;
+                if (paramStart == paramEnd) throw new IllegalArgumentException("Empty parameter name");
+
+                pos = equalsPos + 1;
+                if (pos >= end) throw new IllegalArgumentException("Missing parameter value");
+
+                // Skip leading spaces
+                while (pos < end && Character.isWhitespace(source.charAt(pos))) pos++;
+                if (pos >= end) break;
+
+                int index = dispatch.indexOf(source, paramStart, paramEnd);
+                String value = null;
+
+                if (source.charAt(pos) == '"') {
+                    // Handle quoted value
+                    quoted.setLength(0);
+                    while (++pos < end) {
+                        char ch = source.charAt(pos);
+                        if (ch == '"') {
+                            ++pos;
+                            break;
+                        }
+                        if (ch == '\\' && pos + 1 < end) {
+                            ch = source.charAt(++pos);
+                        }
+                        if (index != -1) quoted.append(ch);
+                    }
+                    if (index != -1) value = text(quoted, 0, quoted.length());
+                } else {
+                    // Handle unquoted value
+                    int valueStart = pos;
+                    while (pos < end && !Character.isWhitespace(source.charAt(pos))) pos++;
+                    if (index != -1) value = text(source, valueStart, pos);
+                }
+
+                if (index != -1) {
+                    args[index] = dispatch.handler.convert(index, value);
+                }
+            }
+
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] == null) {
+                    throw new IllegalArgumentException("Missing required parameter: " + dispatch.handler.parameterNames()[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            Arrays.fill(args, null);
+            throw e;
+        }
+
+        return dispatch;
+    }
+
+    private Dispatch dispatch(CharSequence source, int start, int end) {
+        long modifications = registry.modifications();
+        if (modifications != registryModifications) {
+            dispatches.clear();
+            registryModifications = modifications;
+        }
+
+        probe.set(source, start, end);
+        Dispatch dispatch = dispatches.get(probe);
+        probe.source = null;
+
+        if (dispatch == null) {
+            String commandName = text(source, start, end);
+            CommandHandler handler = registry.handler(commandName);
+            if (handler == null) {
+                throw new IllegalArgumentException("Unknown command: " + commandName);
+            }
+
+            String key = source.subSequence(start, end).toString();
+            dispatch = new Dispatch(handler, utf8Bytes);
+            dispatches.put(new Name().set(key, 0, key.length()), dispatch);
+        }
+        return dispatch;
+    }
+
+    /**
+     * Materializes {@code source[start, end)} as a {@code String}, decoding it
+     * as UTF-8 when the source holds bytes.
+     */
+    private String text(CharSequence source, int start, int end) {
+        if (!utf8Bytes) {
+            return source.subSequence(start, end).toString();
+        }
+
+        int length = end - start;
+        if (bytes == null || bytes.length < length) {
+            bytes = new byte[Math.max(64, Integer.highestOneBit(length) << 1)];
+        }
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) source.charAt(start + i);
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(CharSequence source, char ch, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == ch) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * A resolved command, with its parameter names in the parser's source form
+     * and the argument array reused by every command parsed for it.
+     */
+    static class Dispatch {
+        private final CommandHandler handler;
+        private final String[] parameterNames;
+        private final Object[] args;
+
+        private Dispatch(CommandHandler handler, boolean utf8Bytes) {
+            this.handler = handler;
+            String[] names = handler.parameterNames();
+            this.parameterNames = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                parameterNames[i] = utf8Bytes
+                        ? new String(names[i].getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1)
+                        : names[i];
+            }
+            this.args = new Object[names.length];
+        }
+
+        CommandHandler handler() {
+            return handler;
+        }
+
+        Object[] args() {
+            return args;
+        }
+
+        Object run() throws Throwable {
+            return handler.invoke(args);
+        }
+
+        void clear() {
+            Arrays.fill(args, null);
+        }
+
+        private int indexOf(CharSequence source, int start, int end) {
+            OUTER:
+            for (int i = 0; i < parameterNames.length; i++) {
+                String name = parameterNames[i];
+                if (name.length() != end - start) continue;
+
+                for (int j = 0; j < name.length(); j++) {
+                    if (name.charAt(j) != source.charAt(start + j)) continue OUTER;
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A command name as a region of a source. Lookups use a single mutable
+     * instance over the command being parsed, so only new names are copied.
+     */
+    private static class Name {
+        private CharSequence source;
+        private int start;
+        private int length;
+        private int hash;
+
+        private Name set(CharSequence source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.length = end - start;
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + source.charAt(i);
+            }
+            this.hash = h;
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Name)) return false;
+            Name other = (Name) o;
+            if (length != other.length) return false;
+            for (int i = 0; i < length; i++) {
+                if (source.charAt(start + i) != other.source.charAt(other.start + i)) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -1,118 +1,116 @@
 package io.github.victormadu.command;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.github.victormadu.command.annotation.Command;
 
 public class CommandRegistry {
-    private final Map<String, CommandHandler> handlers = new HashMap<>();
+    private final Map<String, CommandBinding> bindings = new HashMap<>();
+    private final List<CommandRegistry> delegates;
+
+    private volatile long modifications;
 
     public CommandRegistry(Object... services) {
+        this.delegates = Collections.emptyList();
         for (Object service : services) {
             registerService(service);
         }
     }
 
+    private CommandRegistry(List<CommandRegistry> delegates) {
+        this.delegates = delegates;
+    }
+
+    /**
+     * Creates a registry that resolves commands from the given registries, in
+     * order, without copying their commands. Services registered on the
+     * returned registry take precedence over the composed ones, and later
+     * registrations on the composed registries are visible through it.
+     */
+    public static CommandRegistry compose(CommandRegistry... registries) {
+        return new CommandRegistry(Collections.unmodifiableList(new ArrayList<>(Arrays.asList(registries))));
+    }
+
+    /**
+     * Indexes the {@code @Command} methods of the service by name. The handler
+     * of a command, including validation of its {@code @Param} parameters, is
+     * built the first time the command is dispatched.
+     */
     public final void registerService(Object service) {
         for (Method method : service.getClass().getDeclaredMethods()) {            
            
             if (method.isAnnotationPresent(Command.class)) {
-                CommandHandler handler = new CommandHandler(service, method);
-                if (handlers.containsKey(handler.name())) {
-                    throw new IllegalArgumentException("Duplicate command name: " + handler.name());
+                CommandBinding binding = new CommandBinding(service, method);
+                if (bindings.containsKey(binding.name())) {
+                    throw new IllegalArgumentException("Duplicate command name: " + binding.name());
                 }
-                handlers.put(handler.name(), handler);
+                bindings.put(binding.name(), binding);
+                modifications++;
             }
         }
     }
 
     public CommandRunner getRunner(String command) throws Throwable {
-        String trimmedCommand = command.trim();
-        String commandName = extractCommandName(trimmedCommand);
-        Map<String, String> params = parseParameters(trimmedCommand.substring(commandName.length()).trim());
-        CommandHandler handler = handlers.get(commandName);
-        if (handler == null) {
-            throw new IllegalArgumentException("Unknown command: " + commandName);
+        CommandParser.Dispatch dispatch = new CommandParser(this, false).parse(command, 0, command.length());
+        if (dispatch == null) {
+            throw new IllegalArgumentException("Unknown command: ");
         }
 
-        return new CommandRunner(handler, params);
+        return new CommandRunner(dispatch.handler(), dispatch.args());
     }
 
-    private String extractCommandName(String command) {
-        int spaceIndex = command.indexOf(' ');
-        if (spaceIndex == -1) return command;
-        if (spaceIndex == 0) throw new IllegalArgumentException("Invalid command format");
-        return command.substring(0, spaceIndex);
+    /**
+     * Creates a reusable dispatch context over this registry. Contexts are not
+     * thread-safe, so each dispatching thread should hold its own. A context
+     * resolves commands again after services are registered on this registry
+     * or on the registries it composes.
+     */
+    public CommandContext newContext() {
+        return new CommandContext(this);
     }
 
-    private Map<String, String> parseParameters(String paramString) {
-        if (paramString.isEmpty()) return new HashMap<>();
-
-        Map<String, String> params = new HashMap<>();
-        int currentPos = 0;
-        int length = paramString.length();
-
-        while (currentPos < length) {
-            // Skip leading spaces
-            while (currentPos < length && Character.isWhitespace(paramString.charAt(currentPos))) {
-                currentPos++;
-            }
-            if (currentPos >= length) break;
-
-            // Find parameter name
-            int equalsPos = paramString.indexOf('=', currentPos);
-            if (equalsPos == -1) throw new IllegalArgumentException("Invalid parameter format: missing '='");
-            
-            String paramName = paramString.substring(currentPos, equalsPos).trim();
-            if (paramName.isEmpty()) throw new IllegalArgumentException("Empty parameter name");
-
-            currentPos = equalsPos + 1;
-            if (currentPos >= length) throw new IllegalArgumentException("Missing parameter value");
-
-            // Skip leading spaces
-            while (currentPos < length && Character.isWhitespace(paramString.charAt(currentPos))) {
-                currentPos++;
-            }
-            if (currentPos >= length) break;
-
-            // Parse parameter value
-            if (paramString.charAt(currentPos) == '"') {
-                // Handle quoted value
-                
-                StringBuilder param = new StringBuilder();
-                
-                OUTER:
-                while (++currentPos < length) {
-                    char ch = paramString.charAt(currentPos);
+    /**
+     * Executes every command of a UTF-8 script, one command per line, reading it
+     * through a memory-mapped file. The offset of the next command is recorded in
+     * the checkpoint file after each command, and a replay with an existing
+     * checkpoint resumes from it. Returns the number of commands executed.
+     *
+     * <p>If a command fails, its exception is rethrown and the checkpoint still
+     * points at it, so the next replay retries it. A checkpoint is only accepted
+     * for the unchanged script it was recorded for; once a replay completes, the
+     * checkpoint stays at the end of the script and must be deleted before the
+     * script, or a new one, is replayed with the same checkpoint path.
+     */
+    public long replay(Path script, Path checkpoint) throws Throwable {
+        return new ScriptReplay(this, ScriptReplay.DEFAULT_WINDOW_SIZE).run(script, checkpoint);
+    }
 
-                    switch (ch) {
-                        case '\\':
-                            param.append(paramString.charAt(++currentPos));
-                            break;
-                        case '"':
-                            ++currentPos;
-                            break OUTER;
-                        default:
-                            param.append(paramString.charAt(currentPos));
-                            break;
-                    }
-                }
+    /**
+     * Counts the commands registered on this registry and on the registries it
+     * composes, so cached name resolutions can tell when they are stale.
+     */
+    long modifications() {
+        long count = modifications;
+        for (CommandRegistry delegate : delegates) {
+            count += delegate.modifications();
+        }
+        return count;
+    }
 
-                params.put(paramName, param.toString());
-            } else {
-                // Handle unquoted value  
-                int valueStart = currentPos;
-            
-                while (currentPos < length && !Character.isWhitespace(paramString.charAt(currentPos))) {
-                    currentPos++;
-                }
+    CommandHandler handler(String commandName) {
+        CommandBinding binding = bindings.get(commandName);
+        if (binding != null) return binding.handler();
 
-                String paramValue = paramString.substring(valueStart, currentPos);
-                params.put(paramName, paramValue);
-            }
+        for (CommandRegistry delegate : delegates) {
+            CommandHandler handler = delegate.handler(commandName);
+            if (handler != null) return handler;
         }
-
-        return params;
+        return null;
     }
 }
\ No newline at end of file
@@ -1,19 +1,18 @@
 package io.github.victormadu.command;
 
-import java.util.Map;
 import java.util.Optional;
 
 public class CommandRunner {
     private final CommandHandler handler;
-    private final Map<String, String> params;
+    private final Object[] args;
     
-    CommandRunner(CommandHandler handler, Map<String, String> params) {
+    CommandRunner(CommandHandler handler, Object[] args) {
         this.handler = handler;
-        this.params = params;
+        this.args = args;
     }
 
     public Object run() throws Throwable {
-        return handler.execute(params);
+        return handler.invoke(args);
     }
 
     public Optional<Class<?>> getGenericClassOfReturnType() {
@@ -0,0 +1,181 @@
+package io.github.victormadu.command;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Executes a UTF-8 command script, one command per line, from a memory-mapped
+ * file. Lines are parsed in place in the mapped buffer by a {@link CommandParser}
+ * over its bytes; a {@code String} is only created for command names seen for
+ * the first time and for the parameter values passed to a command.
+ *
+ * <p>The byte offset of the next line to execute is kept in a memory-mapped
+ * checkpoint file and updated after every command, so a replay interrupted by a
+ * failing command or a crashed process resumes at the first command that did
+ * not complete.
+ *
+ * <p>The checkpoint also records the size, modification time and a checksum of
+ * the first bytes of the script it was written for, and a replay against any
+ * other script is rejected. A completed replay leaves the checkpoint at the end
+ * of the script; delete it to replay the script again.
+ */
+class ScriptReplay {
+    static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final long CHECKPOINT_MAGIC = 0x434c495245504c59L; // "CLIREPLY"
+    private static final int HEADER_BYTES = 4096;
+
+    // Checkpoint layout: magic, script size, script mtime, header checksum, offset.
+    private static final int MAGIC_AT = 0;
+    private static final int SIZE_AT = 8;
+    private static final int MODIFIED_AT = 16;
+    private static final int CHECKSUM_AT = 24;
+    private static final int OFFSET_AT = 32;
+    private static final int CHECKPOINT_BYTES = 40;
+
+    private final CommandParser parser;
+    private final int windowSize;
+
+    ScriptReplay(CommandRegistry registry, int windowSize) {
+        this.parser = new CommandParser(registry, true);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Replays the script from the offset recorded in the checkpoint, or from the
+     * start when there is no checkpoint yet, and returns the number of commands
+     * executed.
+     */
+    long run(Path script, Path checkpoint) throws Throwable {
+        long executed = 0;
+
+        try (FileChannel scriptChannel = FileChannel.open(script, StandardOpenOption.READ);
+             FileChannel checkpointChannel = FileChannel.open(checkpoint,
+                     StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            MappedByteBuffer offsetBuffer = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_BYTES);
+            long size = scriptChannel.size();
+            long modified = Files.getLastModifiedTime(script).toMillis();
+            long checksum = headerChecksum(scriptChannel);
+
+            long magic = offsetBuffer.getLong(MAGIC_AT);
+            if (magic == 0) {
+                offsetBuffer.putLong(SIZE_AT, size);
+                offsetBuffer.putLong(MODIFIED_AT, modified);
+                offsetBuffer.putLong(CHECKSUM_AT, checksum);
+                offsetBuffer.putLong(OFFSET_AT, 0);
+                offsetBuffer.putLong(MAGIC_AT, CHECKPOINT_MAGIC);
+            } else if (magic != CHECKPOINT_MAGIC) {
+                throw new IllegalArgumentException("Not a replay checkpoint: " + checkpoint);
+            } else if (offsetBuffer.getLong(SIZE_AT) != size
+                    || offsetBuffer.getLong(MODIFIED_AT) != modified
+                    || offsetBuffer.getLong(CHECKSUM_AT) != checksum) {
+                throw new IllegalArgumentException("Checkpoint " + checkpoint + " was recorded for a different script");
+            }
+
+            long position = offsetBuffer.getLong(OFFSET_AT);
+            if (position < 0 || position > size) {
+                throw new IllegalArgumentException("Checkpoint offset " + position + " is outside of the script");
+            }
+
+            while (position < size) {
+                int length = (int) Math.min(windowSize, size - position);
+                boolean lastWindow = position + length == size;
+                MappedByteBuffer window = scriptChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                MappedChars chars = new MappedChars(window);
+                int lineStart = 0;
+
+                while (lineStart < length) {
+                    int lineEnd = indexOf(window, (byte) '\n', lineStart, length);
+                    if (lineEnd == -1) {
+                        if (!lastWindow) break;
+                        lineEnd = length;
+                    }
+
+                    CommandParser.Dispatch dispatch = parser.parse(chars, lineStart, lineEnd);
+                    if (dispatch != null) {
+                        try {
+                            dispatch.run();
+                        } finally {
+                            dispatch.clear();
+                        }
+                        executed++;
+                    }
+
+                    lineStart = Math.min(lineEnd + 1, length);
+                    offsetBuffer.putLong(OFFSET_AT, position + lineStart);
+                }
+
+                if (lineStart == 0) {
+                    throw new IllegalArgumentException("Line at offset " + position + " is longer than " + windowSize + " bytes");
+                }
+                position += lineStart;
+            }
+
+            offsetBuffer.force();
+        }
+
+        return executed;
+    }
+
+    private static long headerChecksum(FileChannel script) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate((int) Math.min(HEADER_BYTES, script.size()));
+        while (header.hasRemaining() && script.read(header, header.position()) != -1) {
+            // read until the header is full
+        }
+        header.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(header);
+        return crc.getValue();
+    }
+
+    private static int indexOf(MappedByteBuffer buffer, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == b) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * The bytes of a mapped window as chars, one char per byte, for the parser.
+     */
+    private static class MappedChars implements CharSequence {
+        private final MappedByteBuffer window;
+
+        private MappedChars(MappedByteBuffer window) {
+            this.window = window;
+        }
+
+        @Override
+        public int length() {
+            return window.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (window.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            byte[] bytes = new byte[end - start];
+            for (int i = start; i < end; i++) {
+                bytes[i - start] = window.get(i);
+            }
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package io.github.victormadu.command;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import io.github.victormadu.command.annotation.Command;
 import io.github.victormadu.command.annotation.Param;
 
 class CommandRegistryTest {
+    @TempDir
+    Path dir;
 
     @Test
     void should_RegisterServiceAndExecuteCommand_When_ValidCommandsProvided() throws Throwable {
@@ -108,4 +116,140 @@ class CommandRegistryTest {
         runner = registry.getRunner("dataList");
         assertEquals(Optional.of(Data.class), runner.getGenericClassOfReturnType());
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_DeferHandlerValidation_Until_CommandIsDispatched() throws Throwable {
+        class Service {
+            @Command("valid")
+            public String valid(@Param("value") String value) {
+                return value;
+            }
+
+            @Command("invalid")
+            public String invalid(String value) {
+                return value;
+            }
+        }
+
+        CommandRegistry registry = new CommandRegistry();
+        assertDoesNotThrow(() -> registry.registerService(new Service()));
+
+        assertEquals("ok", registry.getRunner("valid value=ok").run());
+        assertThrows(IllegalArgumentException.class, () -> registry.getRunner("invalid value=ok"));
+    }
+
+    @Test
+    void should_ResolveCommandsFromComposedRegistries_InOrder() throws Throwable {
+        class First {
+            @Command("shared")
+            public String shared() {
+                return "first";
+            }
+        }
+
+        class Second {
+            @Command("shared")
+            public String shared() {
+                return "second";
+            }
+
+            @Command("second")
+            public String second() {
+                return "second";
+            }
+        }
+
+        CommandRegistry first = new CommandRegistry(new First());
+        CommandRegistry second = new CommandRegistry(new Second());
+        CommandRegistry composed = CommandRegistry.compose(first, second);
+
+        assertEquals("first", composed.getRunner("shared").run());
+        assertEquals("second", composed.getRunner("second").run());
+        assertThrows(IllegalArgumentException.class, () -> composed.getRunner("missing"));
+    }
+
+    @Test
+    void should_DispatchRepeatedly_When_ContextIsReused() throws Throwable {
+        class Service {
+            @Command("add")
+            public long add(@Param("a") long a, @Param("b") int b) {
+                return a + b;
+            }
+
+            @Command("echo")
+            public List<String> echo(@Param("text") String text) {
+                List<String> result = new ArrayList<>();
+                result.add(text);
+                return result;
+            }
+        }
+
+        CommandRegistry registry = new CommandRegistry(new Service());
+        CommandContext context = registry.newContext();
+
+        assertEquals(3L, context.reset("add a=1 b=2").run());
+        assertEquals(30L, context.reset("  add b=10 a=20 ").run());
+        assertEquals(Optional.empty(), context.getGenericClassOfReturnType());
+
+        List<String> expectedResult = new ArrayList<>();
+        expectedResult.add("Victor \" Madu");
+        assertEquals(expectedResult, context.reset("echo text=\"Victor \\\" Madu\"").run());
+        assertEquals(Optional.of(String.class), context.getGenericClassOfReturnType());
+
+        assertThrows(IllegalArgumentException.class, () -> context.reset("add a=1"));
+        assertThrows(IllegalStateException.class, context::run);
+        assertThrows(IllegalArgumentException.class, () -> context.reset("unknown"));
+    }
+
+    @Test
+    void should_ParseSameSyntax_When_DispatchedThroughRunnerContextOrReplay() throws Throwable {
+        class Service {
+            final List<String> calls = new ArrayList<>();
+
+            @Command("add")
+            public void add(@Param("name") String name) {
+                calls.add(name);
+            }
+        }
+
+        Service service = new Service();
+        CommandRegistry registry = new CommandRegistry(service);
+        String command = "add\tname=\"a \\\" b\"";
+
+        registry.getRunner(command).run();
+        registry.newContext().reset(command).run();
+
+        Path script = Files.write(dir.resolve("script.txt"), command.getBytes(StandardCharsets.UTF_8));
+        registry.replay(script, dir.resolve("checkpoint"));
+
+        assertEquals(Arrays.asList("a \" b", "a \" b", "a \" b"), service.calls);
+    }
+
+    @Test
+    void should_ResolveLaterRegistrations_When_ContextWasCreatedBefore() throws Throwable {
+        class Delegate {
+            @Command("who")
+            public String who() {
+                return "delegate";
+            }
+        }
+
+        class Override {
+            @Command("who")
+            public String who() {
+                return "override";
+            }
+        }
+
+        CommandRegistry delegate = new CommandRegistry(new Delegate());
+        CommandRegistry composed = CommandRegistry.compose(delegate);
+        CommandContext context = composed.newContext();
+
+        assertEquals("delegate", context.reset("who").run());
+
+        composed.registerService(new Override());
+
+        assertEquals("override", composed.getRunner("who").run());
+        assertEquals("override", context.reset("who").run());
+    }
+}
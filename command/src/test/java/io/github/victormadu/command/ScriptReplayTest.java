@@ -0,0 +1,124 @@
+package io.github.victormadu.command;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.victormadu.command.annotation.Command;
+import io.github.victormadu.command.annotation.Param;
+
+class ScriptReplayTest {
+    @TempDir
+    Path dir;
+
+    static class Service {
+        final List<String> calls = new ArrayList<>();
+
+        @Command("add")
+        public void add(@Param("name") String name, @Param("count") int count) {
+            calls.add(name + ":" + count);
+        }
+
+        @Command("fail")
+        public void fail(@Param("when") String when) {
+            if (calls.size() < 3) {
+                throw new IllegalStateException("failing on " + when);
+            }
+            calls.add("fail:" + when);
+        }
+    }
+
+    @Test
+    void should_ExecuteEveryLine_When_ScriptIsReplayed() throws Throwable {
+        Path script = script(
+            "add name=one count=1",
+            "",
+            "  add count=2   name=\"two \\\" quoted\"  ",
+            "add name=\u00e9t\u00e9 count=3\r");
+        Service service = new Service();
+
+        long executed = new CommandRegistry(service).replay(script, dir.resolve("checkpoint"));
+
+        assertEquals(3, executed);
+        assertEquals(Arrays.asList("one:1", "two \" quoted:2", "\u00e9t\u00e9:3"), service.calls);
+    }
+
+    @Test
+    void should_ResumeAfterFailedCommand_When_CheckpointExists() throws Throwable {
+        Path script = script(
+            "add name=one count=1",
+            "add name=two count=2",
+            "fail when=third",
+            "add name=four count=4");
+        Path checkpoint = dir.resolve("checkpoint");
+        Service service = new Service();
+        CommandRegistry registry = new CommandRegistry(service);
+
+        assertThrows(IllegalStateException.class, () -> registry.replay(script, checkpoint));
+        assertEquals(Arrays.asList("one:1", "two:2"), service.calls);
+
+        service.calls.add("recovered:0");
+        assertEquals(2, registry.replay(script, checkpoint));
+        assertEquals(Arrays.asList("one:1", "two:2", "recovered:0", "fail:third", "four:4"), service.calls);
+
+        assertEquals(0, registry.replay(script, checkpoint));
+    }
+
+    @Test
+    void should_RejectCheckpoint_When_ScriptIsDifferent() throws Throwable {
+        Path checkpoint = dir.resolve("checkpoint");
+        Service service = new Service();
+        CommandRegistry registry = new CommandRegistry(service);
+
+        Path script = script("add name=one count=1", "add name=two count=2");
+        FileTime modified = Files.getLastModifiedTime(script);
+        assertEquals(2, registry.replay(script, checkpoint));
+
+        // Regenerated with the same size and modification time but other commands.
+        script("add name=six count=6", "add name=ten count=0");
+        Files.setLastModifiedTime(script, modified);
+        assertThrows(IllegalArgumentException.class, () -> registry.replay(script, checkpoint));
+
+        Path other = dir.resolve("other.txt");
+        Files.write(other, "add name=three count=3".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> registry.replay(other, checkpoint));
+        assertEquals(Arrays.asList("one:1", "two:2"), service.calls);
+
+        Files.delete(checkpoint);
+        assertEquals(2, registry.replay(script, checkpoint));
+        assertEquals(Arrays.asList("one:1", "two:2", "six:6", "ten:0"), service.calls);
+    }
+
+    @Test
+    void should_ReadLinesAcrossWindows_When_ScriptIsLargerThanWindow() throws Throwable {
+        List<String> lines = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lines.add("add name=n" + i + " count=" + i);
+            expected.add("n" + i + ":" + i);
+        }
+        Path script = script(lines.toArray(new String[0]));
+        Service service = new Service();
+
+        long executed = new ScriptReplay(new CommandRegistry(service), 32).run(script, dir.resolve("checkpoint"));
+
+        assertEquals(50, executed);
+        assertEquals(expected, service.calls);
+    }
+
+    private Path script(String... lines) throws IOException {
+        Path script = dir.resolve("script.txt");
+        Files.write(script, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        return script;
+    }
+}
@@ -1,14 +1,22 @@
 package io.github.victormadu.display;
 
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
 
 import io.github.victormadu.display.annotation.Column;
 
@@ -25,6 +33,265 @@ public class Display {
         System.out.println(tableStringOf(listOf(o), itemType));
     }
 
+    /**
+     * Renders the rows of {@code o} after applying the filter, sort and limit of
+     * the options. Rows are streamed from the input instead of being copied
+     * first; a sorted limit keeps only the top rows in a bounded heap, and an
+     * unlimited sort larger than the spill threshold is merged from temporary
+     * files.
+     */
+    public <T> void table(Object o, Class<T> itemType, TableOptions<? super T> options) {
+        Iterator<?> rows = filtered(iteratorOf(o), options.filter());
+
+        if (options.sortColumn() == null) {
+            System.out.println(tableStringOf(firstN(rows, options.limit()), itemType));
+            return;
+        }
+
+        // Sort keys are read once per row and kept next to it, so comparisons never reflect.
+        Field sortField = sortField(columnFields(itemType), options.sortColumn());
+        Comparator<Object> keyOrder = keyOrder(options.descending());
+
+        if (options.limit() >= 0) {
+            System.out.println(tableStringOf(topN(rows, sortField, keyOrder, options.limit()), itemType));
+        } else {
+            List<Keyed> buffer = new ArrayList<>();
+            long sequence = 0;
+            while (rows.hasNext() && buffer.size() < options.spillThreshold()) {
+                Object row = rows.next();
+                buffer.add(new Keyed(row, sortKey(row, sortField), sequence++));
+            }
+
+            if (!rows.hasNext()) {
+                buffer.sort(Comparator.comparing(k -> k.key, keyOrder));
+                System.out.println(tableStringOf(rowsOf(buffer), itemType));
+            } else {
+                spilledTable(drain(buffer, rows, sortField), itemType, keyOrder, options);
+            }
+        }
+    }
+
+    private Iterator<?> iteratorOf(Object o) {
+        if (o instanceof Iterable) {
+            return ((Iterable<?>) o).iterator();
+        }
+        return listOf(o).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterator<?> filtered(Iterator<?> rows, Predicate<? super T> filter) {
+        if (filter == null) return rows;
+
+        return new Iterator<Object>() {
+            private Object next;
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && rows.hasNext()) {
+                    Object candidate = rows.next();
+                    if (filter.test((T) candidate)) {
+                        next = candidate;
+                        ready = true;
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public Object next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                ready = false;
+                Object result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Iterates the buffered rows and then the rest of the input with their sort
+     * keys, dropping each buffered row as it is returned so the buffer does not
+     * outlive the sorter's first run.
+     */
+    private static Iterator<Keyed> drain(List<Keyed> buffer, Iterator<?> rest, Field sortField) {
+        return new Iterator<Keyed>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < buffer.size() || rest.hasNext();
+            }
+
+            @Override
+            public Keyed next() {
+                if (index < buffer.size()) {
+                    Keyed row = buffer.set(index++, null);
+                    if (index == buffer.size()) {
+                        buffer.clear();
+                        index = 0;
+                    }
+                    return row;
+                }
+                Object row = rest.next();
+                return new Keyed(row, sortKey(row, sortField), 0);
+            }
+        };
+    }
+
+    private static List<Object> firstN(Iterator<?> rows, int limit) {
+        List<Object> result = new ArrayList<>();
+        while (rows.hasNext() && (limit < 0 || result.size() < limit)) {
+            result.add(rows.next());
+        }
+        return result;
+    }
+
+    private static List<Object> topN(Iterator<?> rows, Field sortField, Comparator<Object> keyOrder, int limit) {
+        if (limit == 0) return Collections.emptyList();
+
+        // Ties go to the earlier row, so the result is the first rows of a stable sort.
+        Comparator<Keyed> ranking = Comparator.<Keyed, Object>comparing(k -> k.key, keyOrder)
+            .thenComparingLong(k -> k.sequence);
+
+        // Max-heap on the ranking, so the head is the first row to evict.
+        PriorityQueue<Keyed> heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, ranking.reversed());
+        long sequence = 0;
+        while (rows.hasNext()) {
+            Object row = rows.next();
+            heap.add(new Keyed(row, sortKey(row, sortField), sequence++));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Keyed> ranked = new ArrayList<>(heap);
+        ranked.sort(ranking);
+        return rowsOf(ranked);
+    }
+
+    private static List<Object> rowsOf(List<Keyed> keyed) {
+        List<Object> result = new ArrayList<>(keyed.size());
+        for (Keyed k : keyed) {
+            result.add(k.row);
+        }
+        return result;
+    }
+
+    /**
+     * A row with its sort key, read once, and its position in the input.
+     */
+    private static class Keyed {
+        private final Object row;
+        private final Object key;
+        private final long sequence;
+
+        private Keyed(Object row, Object key, long sequence) {
+            this.row = row;
+            this.key = key;
+            this.sequence = sequence;
+        }
+    }
+
+    private void spilledTable(Iterator<Keyed> rows, Class<?> itemType, Comparator<Object> keyOrder, TableOptions<?> options) {
+        List<Field> fields = columnFields(itemType);
+        List<String> headers = headers(fields);
+        int[] colWidths = new int[headers.size()];
+
+        for (int i = 0; i < headers.size(); i++) {
+            colWidths[i] = headers.get(i).length();
+        }
+
+        Iterator<SortedRow> records = new Iterator<SortedRow>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public SortedRow next() {
+                Keyed k = rows.next();
+                List<String> cells = cells(k.row, fields);
+                for (int i = 0; i < cells.size(); i++) {
+                    colWidths[i] = Math.max(colWidths[i], cells.get(i).length());
+                }
+                if (k.key != null && !(k.key instanceof Serializable)) {
+                    throw new IllegalArgumentException("Cannot spill rows sorted by column " + options.sortColumn()
+                        + ": " + k.key.getClass().getName() + " is not Serializable");
+                }
+                return new SortedRow(k.key, cells.toArray(new String[0]));
+            }
+        };
+
+        Comparator<SortedRow> order = Comparator.comparing(r -> r.key, keyOrder);
+        ExternalSorter<SortedRow> sorter = new ExternalSorter<>(order, options.spillThreshold());
+
+        try (ExternalSorter.Merge<SortedRow> sorted = sorter.sort(records)) {
+            Iterator<List<String>> cells = new Iterator<List<String>>() {
+                @Override
+                public boolean hasNext() {
+                    return sorted.hasNext();
+                }
+
+                @Override
+                public List<String> next() {
+                    return Arrays.asList(sorted.next().cells);
+                }
+            };
+
+            appendTable(System.out, headers, colWidths, cells);
+            System.out.println();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sort rows", e);
+        }
+    }
+
+    private static Field sortField(List<Field> fields, String column) {
+        List<String> headers = headers(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (headers.get(i).equals(column) || fields.get(i).getName().equals(column)) {
+                Field field = fields.get(i);
+                field.setAccessible(true);
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column: " + column);
+    }
+
+    private static Object sortKey(Object row, Field field) {
+        Object value;
+        try {
+            value = field.get(row);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+        if (value instanceof Optional) {
+            value = ((Optional<?>) value).orElse(null);
+        }
+        if (value == null || value instanceof Comparable) {
+            return value;
+        }
+        return value.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Object> keyOrder(boolean descending) {
+        Comparator<Object> natural = (a, b) -> ((Comparable) a).compareTo(b);
+        return Comparator.nullsLast(descending ? natural.reversed() : natural);
+    }
+
+    private static class SortedRow implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Object key;
+        private final String[] cells;
+
+        private SortedRow(Object key, String[] cells) {
+            this.key = key;
+            this.cells = cells;
+        }
+    }
+
 
     private List<?> listOf(Object o) {
         if (o == null) {
@@ -87,18 +354,25 @@ public class Display {
             }
         }
 
+        try {
+            appendTable(sb, headers, colWidths, rowsData.iterator());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder does not throw
+        }
+        return sb.toString();
+    }
+
+    private void appendTable(Appendable out, List<String> headers, int[] colWidths, Iterator<List<String>> rows) throws IOException {
         String horizontal = buildSeparator(colWidths, '+', '-', '+');
         
-        sb.append(horizontal).append("\n");
-        sb.append(buildRow(headers, colWidths)).append("\n");
-        sb.append(horizontal).append("\n"); 
+        out.append(horizontal).append("\n");
+        out.append(buildRow(headers, colWidths)).append("\n");
+        out.append(horizontal); 
 
-        for (List<String> row : rowsData) {
-            sb.append(buildRow(row, colWidths)).append("\n");
-            sb.append(horizontal).append("\n"); 
+        while (rows.hasNext()) {
+            out.append("\n").append(buildRow(rows.next(), colWidths)).append("\n");
+            out.append(horizontal); 
         }
-
-        return sb.substring(0, sb.length() - 2) + "+";
     }
     
     private List<List<String>> contents(List<?> rows, List<Field> fields) {
@@ -108,24 +382,27 @@ public class Display {
                 .collect(java.util.stream.Collectors.toList());
         } else {
             return rows.stream()
-               .map(r -> {
-                   List<String> row = new ArrayList<>();
-                   
-                   for (Field field : fields) {
-                       field.setAccessible(true);
-                       try {
-                           Object value = field.get(r);
-                           if (value instanceof Optional) {
-                               value = ((Optional<?>) value).orElse(null);
-                           }   
-                           row.add(value!= null? value.toString() : "");
-                       } catch (IllegalAccessException e) {
-                           row.add("");
-                       }
-                   }
-                   return row;
-               }).collect(java.util.stream.Collectors.toList());
+               .map(r -> cells(r, fields))
+               .collect(java.util.stream.Collectors.toList());
+        }
+    }
+
+    private List<String> cells(Object r, List<Field> fields) {
+        List<String> row = new ArrayList<>();
+        
+        for (Field field : fields) {
+            field.setAccessible(true);
+            try {
+                Object value = field.get(r);
+                if (value instanceof Optional) {
+                    value = ((Optional<?>) value).orElse(null);
+                }   
+                row.add(value!= null? value.toString() : "");
+            } catch (IllegalAccessException e) {
+                row.add("");
+            }
         }
+        return row;
     }
 
     private String buildRow(List<String> columns, int[] widths) {
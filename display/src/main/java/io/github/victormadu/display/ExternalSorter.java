@@ -0,0 +1,212 @@
+package io.github.victormadu.display;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts an input that may not fit in memory by writing sorted runs of at most
+ * {@code runSize} items to temporary files and merging them. At most
+ * {@code maxFanIn} runs are open at once; more runs are first merged in groups
+ * into longer runs.
+ */
+class ExternalSorter<T extends Serializable> {
+    static final int DEFAULT_MAX_FAN_IN = 64;
+
+    // Items written between resets of a run's handle table. Resetting bounds the
+    // items the stream keeps reachable, but rewrites the class descriptors.
+    private static final int RESET_INTERVAL = 1024;
+
+    private final Comparator<? super T> comparator;
+    private final int runSize;
+    private final int maxFanIn;
+
+    ExternalSorter(Comparator<? super T> comparator, int runSize) {
+        this(comparator, runSize, DEFAULT_MAX_FAN_IN);
+    }
+
+    ExternalSorter(Comparator<? super T> comparator, int runSize, int maxFanIn) {
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2");
+        }
+        this.comparator = comparator;
+        this.runSize = runSize;
+        this.maxFanIn = maxFanIn;
+    }
+
+    /**
+     * Returns the input in stable sorted order. The returned iterator must be
+     * closed to delete the temporary run files.
+     */
+    Merge<T> sort(Iterator<? extends T> input) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        List<T> buffer = new ArrayList<>();
+
+        try {
+            while (input.hasNext()) {
+                buffer.add(input.next());
+                if (buffer.size() == runSize) {
+                    runs.add(writeRun(buffer));
+                    buffer.clear();
+                }
+            }
+            if (!buffer.isEmpty()) {
+                runs.add(writeRun(buffer));
+                buffer.clear();
+            }
+            while (runs.size() > maxFanIn) {
+                runs = mergePass(runs);
+            }
+            return new Merge<>(runs, comparator);
+        } catch (IOException | RuntimeException e) {
+            deleteAll(runs);
+            throw e;
+        }
+    }
+
+    /**
+     * Merges consecutive groups of {@code maxFanIn} runs into one run each. Groups
+     * keep the order of the runs, so the final merge stays stable.
+     */
+    private List<Path> mergePass(List<Path> runs) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += maxFanIn) {
+                List<Path> group = runs.subList(from, Math.min(from + maxFanIn, runs.size()));
+                try (Merge<T> merge = new Merge<>(new ArrayList<>(group), comparator)) {
+                    merged.add(writeRun(merge));
+                }
+            }
+            return merged;
+        } catch (IOException | RuntimeException e) {
+            deleteAll(merged);
+            deleteAll(runs);
+            throw e;
+        }
+    }
+
+    private Path writeRun(List<T> buffer) throws IOException {
+        buffer.sort(comparator);
+        return writeRun(buffer.iterator());
+    }
+
+    private Path writeRun(Iterator<T> items) throws IOException {
+        Path run = Files.createTempFile("cli-display-", ".run");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+            int written = 0;
+            while (items.hasNext()) {
+                out.writeObject(items.next());
+                if (++written % RESET_INTERVAL == 0) {
+                    out.reset();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    private static void deleteAll(List<Path> runs) {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                run.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    static class Merge<T extends Serializable> implements Iterator<T>, Closeable {
+        private final List<Path> runs;
+        private final List<ObjectInputStream> inputs = new ArrayList<>();
+        private final PriorityQueue<Head<T>> heads;
+
+        private Merge(List<Path> runs, Comparator<? super T> comparator) throws IOException {
+            this.runs = runs;
+            // Ties go to the earlier run, which keeps the merge stable.
+            this.heads = new PriorityQueue<>(Math.max(1, runs.size()), (a, b) -> {
+                int c = comparator.compare(a.item, b.item);
+                return c != 0 ? c : Integer.compare(a.run, b.run);
+            });
+
+            try {
+                for (Path run : runs) {
+                    ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(run)));
+                    inputs.add(in);
+                    advance(inputs.size() - 1);
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            Head<T> head = heads.poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            try {
+                advance(head.run);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return head.item;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance(int run) throws IOException {
+            try {
+                heads.add(new Head<>((T) inputs.get(run).readObject(), run));
+            } catch (EOFException e) {
+                // run exhausted
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Failed to read sorted run", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            for (ObjectInputStream in : inputs) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    // nothing left to read from it
+                }
+            }
+            heads.clear();
+            deleteAll(runs);
+        }
+    }
+
+    private static class Head<T> {
+        private final T item;
+        private final int run;
+
+        private Head(T item, int run) {
+            this.item = item;
+            this.run = run;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.victormadu.display;
+
+import java.util.function.Predicate;
+
+/**
+ * Sorting, filtering and limiting applied to the rows of a table before it is
+ * rendered by {@link Display#table(Object, Class, TableOptions)}.
+ */
+public class TableOptions<T> {
+    static final int DEFAULT_SPILL_THRESHOLD = 100_000;
+
+    private String sortColumn;
+    private boolean descending;
+    private Predicate<? super T> filter;
+    private int limit = -1;
+    private int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+
+    /**
+     * Sorts rows in ascending order of the {@code @Column} with the given header
+     * or field name. Rows with no value sort last. {@code Comparable} values sort
+     * in their natural order and other values by {@code toString()}. A sort that
+     * spills to temporary files also needs {@code Comparable} values to be
+     * {@code Serializable}, and fails with {@link IllegalArgumentException}
+     * otherwise.
+     */
+    public TableOptions<T> sortBy(String column) {
+        this.sortColumn = column;
+        this.descending = false;
+        return this;
+    }
+
+    public TableOptions<T> sortByDescending(String column) {
+        this.sortColumn = column;
+        this.descending = true;
+        return this;
+    }
+
+    public TableOptions<T> filter(Predicate<? super T> filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * Keeps only the first {@code limit} rows, after sorting when a sort column
+     * is set. Sorted top-N selection keeps at most {@code limit} rows in memory.
+     */
+    public TableOptions<T> limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Number of rows held in memory by an unlimited sort before they are
+     * spilled to sorted runs in temporary files and merged.
+     */
+    public TableOptions<T> spillThreshold(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Spill threshold must be positive");
+        }
+        this.spillThreshold = rows;
+        return this;
+    }
+
+    String sortColumn() {
+        return sortColumn;
+    }
+
+    boolean descending() {
+        return descending;
+    }
+
+    Predicate<? super T> filter() {
+        return filter;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int spillThreshold() {
+        return spillThreshold;
+    }
+}
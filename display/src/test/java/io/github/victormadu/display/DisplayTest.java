@@ -1,5 +1,7 @@
 package io.github.victormadu.display;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -8,6 +10,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -126,4 +130,113 @@ class DisplayTest {
         OptionalData optionalData = new OptionalData();
         assertDoesNotThrow(() -> display.table(optionalData));
     }
+
+    @Test
+    void should_SortFilterAndLimitRows_When_OptionsProvided() {
+        List<TestData> data = Arrays.asList(
+            new TestData("John", 30),
+            new TestData("Jane", 25),
+            new TestData("Jim", 41),
+            new TestData("Joan", 19)
+        );
+
+        String actual = captureOutput(() -> display.table(data, TestData.class,
+            new TableOptions<TestData>().sortByDescending("Age").filter(d -> d.age > 20).limit(2)));
+
+        assertEquals(tableOf("Jim", 41, "John", 30), actual);
+    }
+
+    @Test
+    void should_KeepFirstRowsOfStableSort_When_LimitedSortHasDuplicateKeys() {
+        List<TestData> data = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            data.add(new TestData("r" + i, i % 2));
+        }
+
+        String limited = captureOutput(() -> display.table(data, TestData.class,
+            new TableOptions<TestData>().sortBy("Age").limit(3)));
+
+        assertEquals(tableOf("r0", 0, "r2", 0, "r4", 0), limited);
+    }
+
+    @Test
+    void should_SortRowsThroughTemporaryFiles_When_SpillThresholdExceeded() {
+        List<TestData> data = Arrays.asList(
+            new TestData("John", 30),
+            new TestData("Jane", 25),
+            new TestData("Jim", 41)
+        );
+
+        String actual = captureOutput(() -> display.table(data, TestData.class,
+            new TableOptions<TestData>().sortBy("age").spillThreshold(1)));
+
+        assertEquals(tableOf("Jane", 25, "John", 30, "Jim", 41), actual);
+    }
+
+    static class Amount implements Comparable<Amount> {
+        private final int value;
+
+        Amount(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Amount other) {
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(value);
+        }
+    }
+
+    static class Payment {
+        @Column("Amount")
+        private final Amount amount;
+
+        Payment(int amount) {
+            this.amount = new Amount(amount);
+        }
+    }
+
+    @Test
+    void should_SortByNaturalOrder_When_ComparableColumnIsNotSerializable() {
+        List<Payment> data = Arrays.asList(new Payment(10), new Payment(9), new Payment(100));
+
+        String actual = captureOutput(() -> display.table(data, Payment.class,
+            new TableOptions<Payment>().sortBy("Amount")));
+        String expected = captureOutput(() -> display.table(
+            Arrays.asList(new Payment(9), new Payment(10), new Payment(100)), Payment.class));
+
+        assertEquals(expected, actual);
+        assertThrows(IllegalArgumentException.class, () -> display.table(data, Payment.class,
+            new TableOptions<Payment>().sortBy("Amount").spillThreshold(1)));
+    }
+
+    @Test
+    void should_ThrowException_When_SortColumnIsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> display.table(new ArrayList<TestData>(), TestData.class,
+            new TableOptions<TestData>().sortBy("Unknown")));
+    }
+
+    private static String tableOf(Object... cells) {
+        List<TestData> rows = new ArrayList<>();
+        for (int i = 0; i < cells.length; i += 2) {
+            rows.add(new TestData((String) cells[i], (Integer) cells[i + 1]));
+        }
+        return captureOutput(() -> new Display().table(rows, TestData.class));
+    }
+
+    private static String captureOutput(Runnable action) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        try {
+            action.run();
+        } finally {
+            System.setOut(original);
+        }
+        return out.toString();
+    }
 }
@@ -0,0 +1,32 @@
+package io.github.victormadu.display;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class ExternalSorterTest {
+
+    @Test
+    void should_MergeInSeveralPasses_When_RunsExceedFanIn() throws Exception {
+        List<String> input = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input.add((i * 37 % 10) + ":" + i);
+        }
+
+        // Sort by the key before ':' only, so equal keys check that every pass is stable.
+        Comparator<String> byKey = Comparator.comparing(s -> s.substring(0, s.indexOf(':')));
+        ExternalSorter<String> sorter = new ExternalSorter<>(byKey, 3, 2);
+
+        List<String> actual = new ArrayList<>();
+        try (ExternalSorter.Merge<String> sorted = sorter.sort(input.iterator())) {
+            sorted.forEachRemaining(actual::add);
+        }
+
+        List<String> expected = new ArrayList<>(input);
+        expected.sort(byKey);
+        assertEquals(expected, actual);
+    }
+}